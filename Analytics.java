@@ -0,0 +1,407 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * QuantileSketch
+ *
+ * A mergeable quantile sketch with relative-error guarantees.
+ * Amounts are counted in logarithmically sized buckets, so any reported quantile is
+ * within the configured relative accuracy of the true value without sorting the entries.
+ * Infinite and NaN values are counted separately and rank like Arrays.sort orders them:
+ * negative infinity first, then finite values, positive infinity, and NaN last.
+ */
+class QuantileSketch {
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double MIN_INDEXABLE = 1e-9;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final BucketStore positives = new BucketStore();
+    private final BucketStore negatives = new BucketStore();
+    private long zeroCount;
+    private long negativeInfinityCount;
+    private long positiveInfinityCount;
+    private long nanCount;
+    private long count;
+
+    /**
+     * Records a single value in the sketch.
+     *
+     * @param value The value to record
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            nanCount++;
+        } else if (value == Double.POSITIVE_INFINITY) {
+            positiveInfinityCount++;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            negativeInfinityCount++;
+        } else if (value > MIN_INDEXABLE) {
+            positives.add(index(value), 1);
+        } else if (value < -MIN_INDEXABLE) {
+            negatives.add(index(-value), 1);
+        } else {
+            zeroCount++;
+        }
+        count++;
+    }
+
+    /**
+     * Folds the counts of another sketch into this one.
+     *
+     * @param other The sketch to merge
+     */
+    public void merge(QuantileSketch other) {
+        positives.merge(other.positives);
+        negatives.merge(other.negatives);
+        zeroCount += other.zeroCount;
+        negativeInfinityCount += other.negativeInfinityCount;
+        positiveInfinityCount += other.positiveInfinityCount;
+        nanCount += other.nanCount;
+        count += other.count;
+    }
+
+    /**
+     * Estimates the value at the given quantile.
+     *
+     * @param q The quantile between 0 and 1
+     * @return The estimated value, or NaN if the sketch is empty
+     * @throws IllegalArgumentException if q is outside [0, 1]
+     */
+    public double quantile(double q) {
+        checkQuantile(q);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = nearestRank(q, count);
+        long seen = negativeInfinityCount;
+        if (seen > rank) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        for (int i = negatives.maxIndex(); i >= negatives.minIndex(); i--) {
+            seen += negatives.get(i);
+            if (seen > rank) {
+                return -value(i);
+            }
+        }
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (int i = positives.minIndex(); i <= positives.maxIndex(); i++) {
+            seen += positives.get(i);
+            if (seen > rank) {
+                return value(i);
+            }
+        }
+        seen += positiveInfinityCount;
+        if (seen > rank) {
+            return Double.POSITIVE_INFINITY;
+        }
+        seen += nanCount;
+        if (seen > rank) {
+            return Double.NaN;
+        }
+        throw new IllegalStateException("Bucket counts do not add up to " + count);
+    }
+
+    static void checkQuantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+    }
+
+    /**
+     * Returns the zero-based nearest-rank position of quantile q among count values.
+     */
+    static long nearestRank(double q, long count) {
+        return Math.max(0, (long) Math.ceil(q * count) - 1);
+    }
+
+    private static int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / LOG_GAMMA);
+    }
+
+    private static double value(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    /**
+     * Dense bucket counts that grow in either direction as new indexes are seen.
+     */
+    private static class BucketStore {
+        private long[] counts = new long[0];
+        private int offset;
+
+        void add(int index, long n) {
+            if (counts.length == 0) {
+                counts = new long[16];
+                offset = index - counts.length / 2;
+            }
+            if (index < offset || index >= offset + counts.length) {
+                grow(index);
+            }
+            counts[index - offset] += n;
+        }
+
+        void merge(BucketStore other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    add(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        long get(int index) {
+            return counts[index - offset];
+        }
+
+        int minIndex() {
+            return offset;
+        }
+
+        int maxIndex() {
+            return offset + counts.length - 1;
+        }
+
+        private void grow(int index) {
+            int newMin = Math.min(offset, index);
+            int newMax = Math.max(offset + counts.length - 1, index);
+            int size = Math.max(counts.length * 2, newMax - newMin + 1);
+            int newOffset = index < offset ? newMax - size + 1 : newMin;
+            long[] grown = new long[size];
+            System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+            counts = grown;
+            offset = newOffset;
+        }
+    }
+}
+
+/**
+ * EntryStatistics
+ *
+ * A mergeable summary of a group of finance entries: count, sum, mean, variance,
+ * min/max and percentiles. Summaries that keep their amounts give exact percentiles
+ * up to EXACT_LIMIT entries; all others use a quantile sketch.
+ */
+class EntryStatistics {
+    static final int EXACT_LIMIT = 50_000;
+
+    private long count;
+    private double sum;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final QuantileSketch sketch = new QuantileSketch();
+    private double[] exact;
+    private double[] sorted;
+
+    public EntryStatistics() {
+        this(true);
+    }
+
+    /**
+     * @param keepAmounts Whether to keep the amounts for exact percentiles
+     */
+    public EntryStatistics(boolean keepAmounts) {
+        this.exact = keepAmounts ? new double[8] : null;
+    }
+
+    /**
+     * Adds a single amount to the summary.
+     *
+     * @param amount The amount to add
+     */
+    public void add(double amount) {
+        count++;
+        sum += amount;
+        double delta = amount - mean;
+        mean += delta / count;
+        m2 += delta * (amount - mean);
+        min = Math.min(min, amount);
+        max = Math.max(max, amount);
+        sketch.add(amount);
+        sorted = null;
+        if (exact != null) {
+            if (count > EXACT_LIMIT) {
+                exact = null;
+            } else {
+                if (count > exact.length) {
+                    exact = Arrays.copyOf(exact, exact.length * 2);
+                }
+                exact[(int) count - 1] = amount;
+            }
+        }
+    }
+
+    /**
+     * Combines another summary into this one.
+     *
+     * @param other The summary to merge
+     * @return This summary, for chaining
+     */
+    public EntryStatistics merge(EntryStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long total = count + other.count;
+        sorted = null;
+        if (exact == null || other.exact == null || total > EXACT_LIMIT) {
+            exact = null;
+        } else {
+            if (total > exact.length) {
+                exact = Arrays.copyOf(exact, (int) total);
+            }
+            System.arraycopy(other.exact, 0, exact, (int) count, (int) other.count);
+        }
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sketch.merge(other.sketch);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    public double getVariance() {
+        return count == 0 ? Double.NaN : m2 / count;
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Returns a nearest-rank percentile of the summarized amounts.
+     * The result is exact while the amounts are kept and a sketch estimate,
+     * kept within [min, max], otherwise.
+     *
+     * @param q The quantile between 0 and 1
+     * @return The amount at that quantile, or NaN if there are no entries
+     * @throws IllegalArgumentException if q is outside [0, 1]
+     */
+    public double getPercentile(double q) {
+        QuantileSketch.checkQuantile(q);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (exact != null) {
+            if (sorted == null) {
+                sorted = Arrays.copyOf(exact, (int) count);
+                Arrays.sort(sorted);
+            }
+            return sorted[(int) QuantileSketch.nearestRank(q, count)];
+        }
+        double estimate = sketch.quantile(q);
+        if (Double.isNaN(min) || Double.isNaN(max)) {
+            return estimate;
+        }
+        return Math.min(max, Math.max(min, estimate));
+    }
+}
+
+/**
+ * FinanceAnalytics
+ *
+ * This class computes statistics over a list of finance entries.
+ * The list is split into ranges that are summarized in parallel on a fork-join pool,
+ * and the partial summaries are merged into an overall and a per-category result.
+ * Entries are grouped into categories by their name. Inputs of up to EntryStatistics.EXACT_LIMIT
+ * entries get exact percentiles; larger inputs use only the quantile sketch.
+ */
+class FinanceAnalytics {
+    private static final int SEQUENTIAL_THRESHOLD = 10_000;
+
+    final EntryStatistics total;
+    final Map<String, EntryStatistics> byCategory;
+
+    private FinanceAnalytics(EntryStatistics total, Map<String, EntryStatistics> byCategory) {
+        this.total = total;
+        this.byCategory = byCategory;
+    }
+
+    /**
+     * Summarizes the entries on the common fork-join pool.
+     *
+     * @param entries The entries to summarize
+     * @return The overall and per-category statistics
+     */
+    public static FinanceAnalytics summarize(List<FinanceEntry> entries) {
+        return summarize(entries, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Summarizes the entries on the given fork-join pool.
+     *
+     * @param entries The entries to summarize
+     * @param pool The pool to run the summary on
+     * @return The overall and per-category statistics
+     */
+    public static FinanceAnalytics summarize(List<FinanceEntry> entries, ForkJoinPool pool) {
+        List<FinanceEntry> snapshot = entries instanceof RandomAccess ? entries : new ArrayList<>(entries);
+        boolean keepAmounts = snapshot.size() <= EntryStatistics.EXACT_LIMIT;
+        Map<String, EntryStatistics> byCategory = pool.invoke(new SummaryTask(snapshot, 0, snapshot.size(), keepAmounts));
+        EntryStatistics total = new EntryStatistics(keepAmounts);
+        for (EntryStatistics stats : byCategory.values()) {
+            total.merge(stats);
+        }
+        return new FinanceAnalytics(total, new TreeMap<>(byCategory));
+    }
+
+    /**
+     * Summarizes one range of the entry list, splitting it further while it is large.
+     */
+    private static class SummaryTask extends RecursiveTask<Map<String, EntryStatistics>> {
+        private static final long serialVersionUID = 1L;
+        private final List<FinanceEntry> entries;
+        private final int from;
+        private final int to;
+        private final boolean keepAmounts;
+
+        SummaryTask(List<FinanceEntry> entries, int from, int to, boolean keepAmounts) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.keepAmounts = keepAmounts;
+        }
+
+        @Override
+        protected Map<String, EntryStatistics> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Map<String, EntryStatistics> result = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    FinanceEntry entry = entries.get(i);
+                    result.computeIfAbsent(entry.name, k -> new EntryStatistics(keepAmounts)).add(entry.amount);
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            SummaryTask left = new SummaryTask(entries, from, mid, keepAmounts);
+            left.fork();
+            Map<String, EntryStatistics> right = new SummaryTask(entries, mid, to, keepAmounts).compute();
+            Map<String, EntryStatistics> result = left.join();
+            right.forEach((name, stats) -> result.merge(name, stats, EntryStatistics::merge));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * AnalyticsBenchmark
+ *
+ * Measures how FinanceAnalytics scales from one core up to all available cores
+ * on a large generated ledger.
+ * Usage: java AnalyticsBenchmark [entries]
+ */
+public class AnalyticsBenchmark {
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        List<FinanceEntry> entries = generateEntries(size);
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("Entries: " + size + ", cores: " + cores);
+        double baseline = 0;
+        for (int parallelism = 1; parallelism <= cores; parallelism++) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    FinanceAnalytics.summarize(entries, pool);
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < MEASURED_RUNS; i++) {
+                    FinanceAnalytics.summarize(entries, pool);
+                }
+                double millis = (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+                if (parallelism == 1) {
+                    baseline = millis;
+                }
+                System.out.printf("%2d cores: %8.1f ms  speedup %.2fx%n", parallelism, millis, baseline / millis);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static List<FinanceEntry> generateEntries(int size) {
+        String[] categories = {"Rent", "Groceries", "Salary", "Utilities", "Transport", "Dining", "Insurance", "Savings"};
+        Random random = new Random(42);
+        List<FinanceEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = categories[random.nextInt(categories.length)];
+            double amount = Math.round(Math.exp(random.nextGaussian() + 4) * 100) / 100.0;
+            entries.add(new FinanceEntry(name, amount));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,240 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * AnalyticsCheck
+ *
+ * Verifies FinanceAnalytics against exact results computed by sorting and summing the amounts.
+ * Covers exact percentiles for small groups, sketch accuracy for large groups, merging of
+ * partial summaries and the per-category split.
+ * Usage: java AnalyticsCheck
+ */
+public class AnalyticsCheck {
+    private static final double[] QUANTILES = {0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1};
+    private static int failures;
+
+    public static void main(String[] args) {
+        Random random = new Random(7);
+
+        checkSmallGroupsAreExact(random);
+        checkLargeGroupsStayWithinSketchAccuracy(random);
+        checkMergeMatchesSinglePass(random);
+        checkCategories(random);
+        checkQuantileRange();
+        checkNonFiniteAmounts(random);
+
+        if (failures > 0) {
+            System.out.println(failures + " check(s) failed");
+            System.exit(1);
+        }
+        System.out.println("All checks passed");
+    }
+
+    private static void checkSmallGroupsAreExact(Random random) {
+        for (int size = 1; size <= 50; size++) {
+            List<FinanceEntry> entries = generateEntries(random, size, 1);
+            EntryStatistics stats = FinanceAnalytics.summarize(entries).total;
+            double[] sorted = sortedAmounts(entries);
+            checkMoments("small group of " + size, stats, sorted);
+            for (double q : QUANTILES) {
+                check("exact p" + q + " of " + size + " entries", stats.getPercentile(q) == nearestRank(sorted, q));
+            }
+        }
+        // Larger than the split threshold, so exact amounts have to survive merging across tasks
+        List<FinanceEntry> entries = generateEntries(random, EntryStatistics.EXACT_LIMIT, 3);
+        FinanceAnalytics analytics = FinanceAnalytics.summarize(entries);
+        double[] sorted = sortedAmounts(entries);
+        for (double q : QUANTILES) {
+            check("exact p" + q + " of " + entries.size() + " entries", analytics.total.getPercentile(q) == nearestRank(sorted, q));
+        }
+
+        List<FinanceEntry> sample = Arrays.asList(new FinanceEntry("Rent", 500), new FinanceEntry("Rent", 3000), new FinanceEntry("Rent", 3200));
+        EntryStatistics stats = FinanceAnalytics.summarize(sample).total;
+        check("median of {500, 3000, 3200}", stats.getPercentile(0.5) == 3000);
+        check("p99 of {500, 3000, 3200}", stats.getPercentile(0.99) == 3200);
+
+        // Percentiles must reflect amounts added or merged after an earlier query
+        stats.add(4000);
+        stats.add(5000);
+        check("median after add", stats.getPercentile(0.5) == 3200);
+        EntryStatistics more = new EntryStatistics();
+        more.add(6000);
+        more.add(7000);
+        stats.merge(more);
+        check("median after merge", stats.getPercentile(0.5) == 4000);
+    }
+
+    private static void checkLargeGroupsStayWithinSketchAccuracy(Random random) {
+        List<FinanceEntry> entries = generateEntries(random, 1_000_000, 1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            EntryStatistics stats = FinanceAnalytics.summarize(entries, pool).total;
+            double[] sorted = sortedAmounts(entries);
+            checkMoments("large group", stats, sorted);
+            for (double q : QUANTILES) {
+                double expected = nearestRank(sorted, q);
+                double actual = stats.getPercentile(q);
+                check("sketch p" + q + " within 1%", Math.abs(actual - expected) <= 0.01 * Math.abs(expected) + 1e-9);
+                check("sketch p" + q + " within [min, max]", actual >= sorted[0] && actual <= sorted[sorted.length - 1]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void checkMergeMatchesSinglePass(Random random) {
+        for (int size : new int[] {20, 9_000, 50_000}) {
+            List<FinanceEntry> entries = generateEntries(random, size, 1);
+            EntryStatistics sequential = new EntryStatistics();
+            for (FinanceEntry entry : entries) {
+                sequential.add(entry.amount);
+            }
+
+            // Merge uneven chunks, including an empty one, in reverse order
+            List<EntryStatistics> parts = new ArrayList<>();
+            int from = 0;
+            while (from < entries.size()) {
+                int to = Math.min(entries.size(), from + 1 + random.nextInt(size / 3 + 1));
+                EntryStatistics part = new EntryStatistics();
+                for (int i = from; i < to; i++) {
+                    part.add(entries.get(i).amount);
+                }
+                parts.add(part);
+                from = to;
+            }
+            parts.add(new EntryStatistics());
+            Collections.reverse(parts);
+            EntryStatistics merged = new EntryStatistics();
+            for (EntryStatistics part : parts) {
+                merged.merge(part);
+            }
+
+            String label = "merge of " + size + " entries";
+            check(label + ": count", merged.getCount() == sequential.getCount());
+            check(label + ": sum", close(merged.getSum(), sequential.getSum()));
+            check(label + ": mean", close(merged.getMean(), sequential.getMean()));
+            check(label + ": variance", close(merged.getVariance(), sequential.getVariance()));
+            check(label + ": min", merged.getMin() == sequential.getMin());
+            check(label + ": max", merged.getMax() == sequential.getMax());
+            for (double q : QUANTILES) {
+                check(label + ": p" + q, merged.getPercentile(q) == sequential.getPercentile(q));
+            }
+        }
+    }
+
+    private static void checkCategories(Random random) {
+        List<FinanceEntry> entries = generateEntries(random, 200_000, 5);
+        FinanceAnalytics analytics = FinanceAnalytics.summarize(entries);
+        Map<String, List<FinanceEntry>> expected = new TreeMap<>();
+        for (FinanceEntry entry : entries) {
+            expected.computeIfAbsent(entry.name, k -> new ArrayList<>()).add(entry);
+        }
+        check("category names", analytics.byCategory.keySet().equals(expected.keySet()));
+        long total = 0;
+        for (Map.Entry<String, List<FinanceEntry>> category : expected.entrySet()) {
+            EntryStatistics stats = analytics.byCategory.get(category.getKey());
+            if (stats == null) {
+                continue;
+            }
+            checkMoments("category " + category.getKey(), stats, sortedAmounts(category.getValue()));
+            total += stats.getCount();
+        }
+        check("category counts add up to total", total == analytics.total.getCount() && total == entries.size());
+    }
+
+    private static void checkQuantileRange() {
+        EntryStatistics stats = new EntryStatistics();
+        stats.add(1);
+        for (double q : new double[] {-0.1, 1.1, Double.NaN}) {
+            try {
+                stats.getPercentile(q);
+                check("quantile " + q + " is rejected", false);
+            } catch (IllegalArgumentException ex) {
+                check("quantile " + q + " is rejected", true);
+            }
+        }
+        check("empty group percentile is NaN", Double.isNaN(new EntryStatistics().getPercentile(0.5)));
+    }
+
+    private static void checkNonFiniteAmounts(Random random) {
+        List<FinanceEntry> pair = Arrays.asList(new FinanceEntry("Rent", 5), new FinanceEntry("Rent", Double.POSITIVE_INFINITY));
+        EntryStatistics stats = FinanceAnalytics.summarize(pair).total;
+        check("{5, Infinity}: min", stats.getMin() == 5);
+        check("{5, Infinity}: max", stats.getMax() == Double.POSITIVE_INFINITY);
+        check("{5, Infinity}: median", stats.getPercentile(0.5) == 5);
+        check("{5, Infinity}: p99", stats.getPercentile(0.99) == Double.POSITIVE_INFINITY);
+
+        // Above the exact limit, so percentiles come from the sketch
+        for (int size : new int[] {20, EntryStatistics.EXACT_LIMIT + 1}) {
+            List<FinanceEntry> entries = generateEntries(random, size, 1);
+            entries.add(new FinanceEntry("Category 0", Double.POSITIVE_INFINITY));
+            entries.add(new FinanceEntry("Category 0", Double.NEGATIVE_INFINITY));
+            entries.add(new FinanceEntry("Category 0", Double.NaN));
+            stats = FinanceAnalytics.summarize(entries).total;
+            double[] sorted = sortedAmounts(entries);
+            String label = "non-finite amounts among " + size + " entries";
+            check(label + ": count", stats.getCount() == entries.size());
+            check(label + ": p0 is -Infinity", stats.getPercentile(0) == Double.NEGATIVE_INFINITY);
+            check(label + ": p100 is NaN", Double.isNaN(stats.getPercentile(1)));
+            double expected = nearestRank(sorted, 0.5);
+            check(label + ": median", Math.abs(stats.getPercentile(0.5) - expected) <= 0.01 * Math.abs(expected) + 1e-9);
+            double secondToLast = (entries.size() - 1.5) / entries.size();
+            check(label + ": second to last is Infinity", stats.getPercentile(secondToLast) == Double.POSITIVE_INFINITY);
+        }
+    }
+
+    private static void checkMoments(String label, EntryStatistics stats, double[] sorted) {
+        double sum = 0;
+        for (double amount : sorted) {
+            sum += amount;
+        }
+        double mean = sum / sorted.length;
+        double squares = 0;
+        for (double amount : sorted) {
+            squares += (amount - mean) * (amount - mean);
+        }
+        check(label + ": count", stats.getCount() == sorted.length);
+        check(label + ": sum", close(stats.getSum(), sum));
+        check(label + ": mean", close(stats.getMean(), mean));
+        check(label + ": variance", close(stats.getVariance(), squares / sorted.length));
+        check(label + ": min", stats.getMin() == sorted[0]);
+        check(label + ": max", stats.getMax() == sorted[sorted.length - 1]);
+    }
+
+    /**
+     * Generates entries with mixed signs, zeros and amounts spanning several orders of magnitude.
+     */
+    private static List<FinanceEntry> generateEntries(Random random, int size, int categories) {
+        List<FinanceEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double magnitude = Math.exp(random.nextGaussian() * 3 + 3);
+            double amount = Math.round(magnitude * 100) / 100.0 * (random.nextInt(5) == 0 ? -1 : 1);
+            entries.add(new FinanceEntry("Category " + random.nextInt(categories), amount));
+        }
+        return entries;
+    }
+
+    private static double[] sortedAmounts(List<FinanceEntry> entries) {
+        double[] amounts = new double[entries.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = entries.get(i).amount;
+        }
+        Arrays.sort(amounts);
+        return amounts;
+    }
+
+    private static double nearestRank(double[] sorted, double q) {
+        return sorted[Math.max(0, (int) Math.ceil(q * sorted.length) - 1)];
+    }
+
+    private static boolean close(double actual, double expected) {
+        return Math.abs(actual - expected) <= 1e-9 * Math.max(1, Math.abs(expected));
+    }
+
+    private static void check(String name, boolean passed) {
+        if (!passed) {
+            failures++;
+            System.out.println("FAIL: " + name);
+        }
+    }
+}
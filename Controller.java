@@ -1,6 +1,10 @@
 import javax.swing.*;
 import java.io.*;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.*;
 
@@ -13,6 +17,7 @@ import com.itextpdf.text.pdf.*;
 class FinanceController {
     private FinanceModel model;
     private FinanceView view;
+    private SwingWorker<String[], Void> statisticsWorker;
 
     /**
      * Constructor for the Controller class.
@@ -104,12 +109,48 @@ class FinanceController {
     }
 
     /**
-     * Updates the entire View, including balance, income list, and expense list.
+     * Updates the entire View, including balance, income list, expense list, and statistics.
      */
     private void updateView() {
         view.updateBalance(model.getBalance());
         view.updateIncomeList(model.incomes);
         view.updateExpenseList(model.expenses);
+        updateStatistics();
+    }
+
+    /**
+     * Recomputes the income and expense statistics in the background and shows them in the View.
+     * A newer update cancels one that is still running, so only the latest results are shown.
+     */
+    private void updateStatistics() {
+        if (statisticsWorker != null) {
+            statisticsWorker.cancel(false);
+        }
+        List<FinanceEntry> incomes = new ArrayList<>(model.incomes);
+        List<FinanceEntry> expenses = new ArrayList<>(model.expenses);
+        statisticsWorker = new SwingWorker<String[], Void>() {
+            @Override
+            protected String[] doInBackground() {
+                return new String[] {
+                        formatSummary("Income", FinanceAnalytics.summarize(incomes).total),
+                        formatSummary("Expenses", FinanceAnalytics.summarize(expenses).total)
+                };
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    String[] summaries = get();
+                    view.updateStatistics(summaries[0], summaries[1]);
+                } catch (InterruptedException | ExecutionException ex) {
+                    ex.printStackTrace();
+                }
+            }
+        };
+        statisticsWorker.execute();
     }
 
     /**
@@ -136,34 +177,117 @@ class FinanceController {
                 fileCounter++;
             }
 
-            try {
-                com.itextpdf.text.Document document = new com.itextpdf.text.Document();
-                PdfWriter.getInstance(document, new FileOutputStream(pdfFile));
-                document.open();
-                document.add(new Paragraph("Financial Report for " + model.userName));
-                document.add(new Paragraph("Date: " + model.date));
-                document.add(new Paragraph("---------------------------------------------------"));
-                document.add(new Paragraph("Incomes:"));
-                for (FinanceEntry entry : model.incomes) {
-                    document.add(new Paragraph(entry.name + ": $" + entry.amount));
+            // Snapshot the data so the report can be written off the event thread
+            String userName = model.userName;
+            LocalDate date = model.date;
+            double balance = model.getBalance();
+            List<FinanceEntry> incomes = new ArrayList<>(model.incomes);
+            List<FinanceEntry> expenses = new ArrayList<>(model.expenses);
+            File reportFile = pdfFile;
+            view.savePDFButton.setEnabled(false);
+
+            new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() throws IOException, DocumentException {
+                    // Compute the statistics first so a failure there leaves no partial file behind
+                    FinanceAnalytics incomeStatistics = FinanceAnalytics.summarize(incomes);
+                    FinanceAnalytics expenseStatistics = FinanceAnalytics.summarize(expenses);
+
+                    try (FileOutputStream out = new FileOutputStream(reportFile)) {
+                        writeReport(out, userName, date, balance, incomes, expenses, incomeStatistics, expenseStatistics);
+                    } catch (IOException | DocumentException | RuntimeException ex) {
+                        reportFile.delete();
+                        throw ex;
+                    }
+                    return null;
                 }
-                document.add(new Paragraph("---------------------------------------------------"));
-                document.add(new Paragraph("Expenses:"));
-                for (FinanceEntry entry : model.expenses) {
-                    document.add(new Paragraph(entry.name + ": $" + entry.amount));
+
+                @Override
+                protected void done() {
+                    view.savePDFButton.setEnabled(true);
+                    try {
+                        get();
+                        JOptionPane.showMessageDialog(view.mainFrame, "PDF saved as " + reportFile.getAbsolutePath());
+                    } catch (ExecutionException ex) {
+                        Throwable cause = ex.getCause();
+                        if (cause instanceof FileNotFoundException) {
+                            JOptionPane.showMessageDialog(view.mainFrame, "Error: Unable to create PDF file. Please check file permissions or available disk space.", "File Error", JOptionPane.ERROR_MESSAGE);
+                        } else if (cause instanceof IOException) {
+                            JOptionPane.showMessageDialog(view.mainFrame, "Error: There was an I/O problem while writing the PDF file.", "I/O Error", JOptionPane.ERROR_MESSAGE);
+                        } else if (cause instanceof DocumentException) {
+                            JOptionPane.showMessageDialog(view.mainFrame, "Error: There was a problem with creating the PDF document.", "Document Error", JOptionPane.ERROR_MESSAGE);
+                        } else {
+                            JOptionPane.showMessageDialog(view.mainFrame, "Error: Unable to prepare the report: " + cause, "Report Error", JOptionPane.ERROR_MESSAGE);
+                        }
+                        cause.printStackTrace();
+                    } catch (InterruptedException ex) {
+                        ex.printStackTrace();
+                    }
                 }
-                document.add(new Paragraph("---------------------------------------------------"));
-                document.add(new Paragraph("Balance: $" + model.getBalance()));
-                document.close();
-                JOptionPane.showMessageDialog(view.mainFrame, "PDF saved as " + pdfFile.getAbsolutePath());
-            } catch (FileNotFoundException ex) {
-                JOptionPane.showMessageDialog(view.mainFrame, "Error: Unable to create PDF file. Please check file permissions or available disk space.", "File Error", JOptionPane.ERROR_MESSAGE);
-                ex.printStackTrace();
-            } catch (DocumentException ex) {
-                JOptionPane.showMessageDialog(view.mainFrame, "Error: There was a problem with creating the PDF document.", "Document Error", JOptionPane.ERROR_MESSAGE);
-                ex.printStackTrace();
-            }
+            }.execute();
+        }
+    }
+
+    /**
+     * Writes the PDF report to the given stream.
+     */
+    private void writeReport(OutputStream out, String userName, LocalDate date, double balance,
+                             List<FinanceEntry> incomes, List<FinanceEntry> expenses,
+                             FinanceAnalytics incomeStatistics, FinanceAnalytics expenseStatistics) throws DocumentException {
+        com.itextpdf.text.Document document = new com.itextpdf.text.Document();
+        PdfWriter.getInstance(document, out);
+        document.open();
+        document.add(new Paragraph("Financial Report for " + userName));
+        document.add(new Paragraph("Date: " + date));
+        document.add(new Paragraph("---------------------------------------------------"));
+        document.add(new Paragraph("Incomes:"));
+        for (FinanceEntry entry : incomes) {
+            document.add(new Paragraph(entry.name + ": $" + entry.amount));
+        }
+        document.add(new Paragraph("---------------------------------------------------"));
+        document.add(new Paragraph("Expenses:"));
+        for (FinanceEntry entry : expenses) {
+            document.add(new Paragraph(entry.name + ": $" + entry.amount));
+        }
+        document.add(new Paragraph("---------------------------------------------------"));
+        document.add(new Paragraph("Balance: $" + balance));
+        document.add(new Paragraph("---------------------------------------------------"));
+        addStatistics(document, "Income Statistics:", incomeStatistics);
+        document.add(new Paragraph("---------------------------------------------------"));
+        addStatistics(document, "Expense Statistics:", expenseStatistics);
+        document.close();
+    }
+
+    /**
+     * Adds an overall and per-category statistics section to the PDF report.
+     * @param document The document being written.
+     * @param title The heading of the section.
+     * @param analytics The statistics to report.
+     */
+    private void addStatistics(com.itextpdf.text.Document document, String title, FinanceAnalytics analytics) throws DocumentException {
+        document.add(new Paragraph(title));
+        document.add(new Paragraph(formatStatistics("Total", analytics.total)));
+        for (Map.Entry<String, EntryStatistics> category : analytics.byCategory.entrySet()) {
+            document.add(new Paragraph(formatStatistics(category.getKey(), category.getValue())));
+        }
+    }
+
+    private String formatSummary(String label, EntryStatistics stats) {
+        if (stats.getCount() == 0) {
+            return label + ": no entries";
+        }
+        return String.format("%s: %d entries, mean $%.2f, std dev $%.2f, median $%.2f, p90 $%.2f",
+                label, stats.getCount(), stats.getMean(), Math.sqrt(stats.getVariance()),
+                stats.getPercentile(0.5), stats.getPercentile(0.9));
+    }
+
+    private String formatStatistics(String label, EntryStatistics stats) {
+        if (stats.getCount() == 0) {
+            return label + ": no entries";
         }
+        return String.format("%s: count %d, sum $%.2f, mean $%.2f, std dev $%.2f, min $%.2f, max $%.2f, median $%.2f, p90 $%.2f, p99 $%.2f",
+                label, stats.getCount(), stats.getSum(), stats.getMean(), Math.sqrt(stats.getVariance()),
+                stats.getMin(), stats.getMax(), stats.getPercentile(0.5), stats.getPercentile(0.9), stats.getPercentile(0.99));
     }
 
     /**
@@ -18,7 +18,7 @@ class FinanceView {
     JFrame mainFrame, loginFrame;
     JTextField nameField, incomeNameField, incomeAmountField, expenseNameField, expenseAmountField;
     JButton addIncomeButton, addExpenseButton, savePDFButton, saveButton, loadButton;
-    JLabel balanceLabel, welcomeLabel, dateLabel;
+    JLabel balanceLabel, welcomeLabel, dateLabel, incomeStatsLabel, expenseStatsLabel;
     JPanel incomePanel, expensePanel;
     DefaultListModel<String> incomeListModel, expenseListModel;
     JList<String> incomeList, expenseList;
@@ -97,16 +97,25 @@ class FinanceView {
         mainFrame.add(centerPanel, BorderLayout.CENTER);
 
         // Bottom Panel
-        JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        JPanel statsPanel = new JPanel(new GridLayout(2, 1));
+        incomeStatsLabel = new JLabel("Income: no entries");
+        expenseStatsLabel = new JLabel("Expenses: no entries");
+        statsPanel.add(incomeStatsLabel);
+        statsPanel.add(expenseStatsLabel);
+        bottomPanel.add(statsPanel, BorderLayout.NORTH);
+
+        JPanel actionPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
         balanceLabel = new JLabel("Balance: $0.00");
         balanceLabel.setFont(new Font("Arial", Font.BOLD, 16));
         savePDFButton = new JButton("Save as PDF");
         saveButton = new JButton("Save Changes");
         loadButton = new JButton("Load Previous");
-        bottomPanel.add(balanceLabel);
-        bottomPanel.add(savePDFButton);
-        bottomPanel.add(saveButton);
-        bottomPanel.add(loadButton);
+        actionPanel.add(balanceLabel);
+        actionPanel.add(savePDFButton);
+        actionPanel.add(saveButton);
+        actionPanel.add(loadButton);
+        bottomPanel.add(actionPanel, BorderLayout.CENTER);
         mainFrame.add(bottomPanel, BorderLayout.SOUTH);
 
         // Add some padding
@@ -252,6 +261,17 @@ class FinanceView {
         balanceLabel.setText(String.format("Balance: $%.2f", balance));
     }
 
+    /**
+     * Updates the income and expense statistics shown below the lists.
+     *
+     * @param incomeSummary Summary line for the incomes
+     * @param expenseSummary Summary line for the expenses
+     */
+    public void updateStatistics(String incomeSummary, String expenseSummary) {
+        incomeStatsLabel.setText(incomeSummary);
+        expenseStatsLabel.setText(expenseSummary);
+    }
+
     public void setWelcomeMessage(String name, LocalDate date) {
         welcomeLabel.setText("Welcome " + name + "!");
         dateLabel.setText("Your accounts for " + date);